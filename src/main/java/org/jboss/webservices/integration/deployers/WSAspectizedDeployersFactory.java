@@ -21,8 +21,8 @@
  */
 package org.jboss.webservices.integration.deployers;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.deployers.plugins.deployers.DeployersImpl;
 import org.jboss.deployers.spi.deployer.Deployer;
@@ -43,7 +43,7 @@ public final class WSAspectizedDeployersFactory
    private final DeployersImpl delegee;
 
    /** Our deployers regitry. */
-   private final Map<DeploymentAspect, Deployer> deployersRegistry = new HashMap<DeploymentAspect, Deployer>();
+   private final Map<DeploymentAspect, Deployer> deployersRegistry = new ConcurrentHashMap<DeploymentAspect, Deployer>();
 
    /**
     * Constructor.
@@ -83,9 +83,8 @@ public final class WSAspectizedDeployersFactory
       {
          WSAspectizedDeployersFactory.LOGGER.trace("Removing deployer for: " + aspect);
       }
-      final Deployer wsAspectizedDeployer = this.deployersRegistry.get(aspect);
+      final Deployer wsAspectizedDeployer = this.deployersRegistry.remove(aspect);
 
-      this.deployersRegistry.remove(aspect);
       this.delegee.removeDeployer(wsAspectizedDeployer);
    }
 }
@@ -24,7 +24,9 @@ package org.jboss.webservices.integration.deployers;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
@@ -140,6 +142,8 @@ public final class WSEJBAdapterDeployer extends AbstractRealDeployer
     */
    private static final class WebServiceDeclarationAdapter implements WebServiceDeclaration
    {
+      /** Marks annotation types known not to be present. */
+      private static final Object NO_ANNOTATION = new Object();
 
       /** EJB meta data. */
       private final JBossEnterpriseBeanMetaData ejbMetaData;
@@ -150,6 +154,12 @@ public final class WSEJBAdapterDeployer extends AbstractRealDeployer
       /** Class loader. */
       private final ClassLoader loader;
 
+      /** EJB class, loaded on first use. */
+      private volatile Class<?> componentClass;
+
+      /** Already resolved annotations. */
+      private final Map<Class<? extends Annotation>, Object> annotations = new ConcurrentHashMap<Class<? extends Annotation>, Object>(4);
+
       /**
        * Constructor.
        *
@@ -199,12 +209,34 @@ public final class WSEJBAdapterDeployer extends AbstractRealDeployer
 
       /**
        * Returns requested annotation associated with EJB container or EJB bean.
+       * Each annotation type is resolved only once, later requests are served from cache.
        *
        * @param annotationType annotation type
        * @param <T> annotation class type
        * @return requested annotation or null if not found
        */
       public <T extends Annotation> T getAnnotation(final Class<T> annotationType)
+      {
+         final Object cached = this.annotations.get(annotationType);
+         if (cached != null)
+         {
+            return cached == NO_ANNOTATION ? null : annotationType.cast(cached);
+         }
+
+         final T annotation = this.resolveAnnotation(annotationType);
+         this.annotations.put(annotationType, annotation != null ? annotation : NO_ANNOTATION);
+
+         return annotation;
+      }
+
+      /**
+       * Resolves requested annotation from EJB container or EJB bean.
+       *
+       * @param annotationType annotation type
+       * @param <T> annotation class type
+       * @return requested annotation or null if not found
+       */
+      private <T extends Annotation> T resolveAnnotation(final Class<T> annotationType)
       {
          final boolean haveEjbContainer = this.ejbContainer != null;
 
@@ -226,9 +258,15 @@ public final class WSEJBAdapterDeployer extends AbstractRealDeployer
        */
       private Class<?> getComponentClass()
       {
+         if (this.componentClass != null)
+         {
+            return this.componentClass;
+         }
+
          try
          {
-            return this.loader.loadClass(this.getComponentClassName());
+            this.componentClass = this.loader.loadClass(this.getComponentClassName());
+            return this.componentClass;
          }
          catch (ClassNotFoundException cnfe)
          {
@@ -21,16 +21,11 @@
  */
 package org.jboss.webservices.integration.deployers.deployment;
 
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.ResourceBundle;
-import java.util.Set;
 
 import org.jboss.deployers.structure.spi.DeploymentUnit;
 import org.jboss.deployers.vfs.spi.structure.VFSDeploymentUnit;
 import org.jboss.logging.Logger;
-import org.jboss.vfs.VirtualFile;
 import org.jboss.webservices.integration.injection.VirtualFileAdaptor;
 import org.jboss.webservices.integration.util.ASHelper;
 import org.jboss.ws.api.util.BundleUtils;
@@ -43,7 +38,6 @@ import org.jboss.wsf.spi.deployment.DeploymentType;
 import org.jboss.wsf.spi.deployment.DeploymentModelFactory;
 import org.jboss.wsf.spi.deployment.Endpoint;
 import org.jboss.wsf.spi.deployment.EndpointType;
-import org.jboss.wsf.spi.deployment.UnifiedVirtualFile;
 
 /**
  * Base class for all deployment model builders.
@@ -152,14 +146,7 @@ abstract class AbstractDeploymentModelBuilder implements DeploymentModelBuilder
       if (unit instanceof VFSDeploymentUnit)
       {
          final VFSDeploymentUnit vfsUnit = (VFSDeploymentUnit) unit;
-         final List<VirtualFile> virtualFiles = vfsUnit.getMetaDataFiles(AbstractDeploymentModelBuilder.WS_FILE_FILTER);
-         final Set<UnifiedVirtualFile> uVirtualFiles = new HashSet<UnifiedVirtualFile>();
-         for (VirtualFile vf : virtualFiles)
-         {
-            // Adding the roots of the virtual files.
-            uVirtualFiles.add(new VirtualFileAdaptor(vf));  
-         }
-         dep.setMetadataFiles(new LinkedList<UnifiedVirtualFile>(uVirtualFiles));
+         dep.setMetadataFiles(new LazyMetaDataFilesList(vfsUnit, AbstractDeploymentModelBuilder.WS_FILE_FILTER));
       }
 
       if (unit.getParent() != null)
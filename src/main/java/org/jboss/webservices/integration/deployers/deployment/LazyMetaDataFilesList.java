@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.webservices.integration.deployers.deployment;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.deployers.vfs.spi.structure.VFSDeploymentUnit;
+import org.jboss.vfs.VirtualFile;
+import org.jboss.vfs.VirtualFileFilter;
+import org.jboss.webservices.integration.injection.VirtualFileAdaptor;
+import org.jboss.wsf.spi.deployment.UnifiedVirtualFile;
+
+/**
+ * Deployment metadata files list that walks deployment unit metadata locations
+ * the first time it is accessed. Many deployments never publish WSDL from the archive,
+ * so the walk is avoided for them completely.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+final class LazyMetaDataFilesList extends AbstractList<UnifiedVirtualFile>
+{
+   /** Deployment unit to walk. */
+   private final VFSDeploymentUnit unit;
+
+   /** Metadata files filter. */
+   private final VirtualFileFilter filter;
+
+   /** Materialized metadata files. */
+   private volatile List<UnifiedVirtualFile> files;
+
+   /**
+    * Constructor.
+    *
+    * @param unit deployment unit
+    * @param filter metadata files filter
+    */
+   LazyMetaDataFilesList(final VFSDeploymentUnit unit, final VirtualFileFilter filter)
+   {
+      super();
+
+      this.unit = unit;
+      this.filter = filter;
+   }
+
+   @Override
+   public UnifiedVirtualFile get(final int index)
+   {
+      return this.getFiles().get(index);
+   }
+
+   @Override
+   public int size()
+   {
+      return this.getFiles().size();
+   }
+
+   @Override
+   public UnifiedVirtualFile set(final int index, final UnifiedVirtualFile file)
+   {
+      return this.getFiles().set(index, file);
+   }
+
+   @Override
+   public void add(final int index, final UnifiedVirtualFile file)
+   {
+      this.getFiles().add(index, file);
+      this.modCount++;
+   }
+
+   @Override
+   public UnifiedVirtualFile remove(final int index)
+   {
+      final UnifiedVirtualFile removed = this.getFiles().remove(index);
+      this.modCount++;
+
+      return removed;
+   }
+
+   /**
+    * Walks deployment unit metadata locations on first access.
+    *
+    * @return metadata files
+    */
+   private List<UnifiedVirtualFile> getFiles()
+   {
+      List<UnifiedVirtualFile> result = this.files;
+
+      if (result == null)
+      {
+         synchronized (this)
+         {
+            result = this.files;
+
+            if (result == null)
+            {
+               final List<VirtualFile> virtualFiles = this.unit.getMetaDataFiles(this.filter);
+               result = new ArrayList<UnifiedVirtualFile>(virtualFiles.size());
+               for (VirtualFile vf : virtualFiles)
+               {
+                  // Adding the roots of the virtual files.
+                  result.add(new VirtualFileAdaptor(vf));
+               }
+               this.files = result;
+            }
+         }
+      }
+
+      return result;
+   }
+}
@@ -34,7 +34,7 @@ import org.jboss.vfs.VisitorAttributes;
 final class WSVirtualFileFilter implements VirtualFileFilterWithAttributes
 {
    /** The tree walking attributes. */
-   private VisitorAttributes attributes;
+   private final VisitorAttributes attributes;
 
    /**
     * Constructor.
@@ -77,11 +77,25 @@ final class WSVirtualFileFilter implements VirtualFileFilterWithAttributes
          return false;
       }
 
-      final String fileName = file.getName().toLowerCase();
-      final boolean hasWsdlSuffix = fileName.endsWith(".wsdl");
-      final boolean hasXsdSuffix = fileName.endsWith(".xsd");
-      final boolean hasXmlSuffix = fileName.endsWith(".xml");
+      final String fileName = file.getName();
+      final boolean hasWsdlSuffix = WSVirtualFileFilter.endsWithIgnoreCase(fileName, ".wsdl");
+      final boolean hasXsdSuffix = WSVirtualFileFilter.endsWithIgnoreCase(fileName, ".xsd");
+      final boolean hasXmlSuffix = WSVirtualFileFilter.endsWithIgnoreCase(fileName, ".xml");
 
       return hasWsdlSuffix || hasXsdSuffix || hasXmlSuffix;
    }
+
+   /**
+    * Case insensitive suffix check that doesn't allocate lower cased copy of the file name.
+    *
+    * @param fileName file name
+    * @param suffix lower cased suffix
+    * @return true if file name ends with suffix, false otherwise
+    */
+   private static boolean endsWithIgnoreCase(final String fileName, final String suffix)
+   {
+      final int offset = fileName.length() - suffix.length();
+
+      return offset >= 0 && fileName.regionMatches(true, offset, suffix, 0, suffix.length());
+   }
 }
@@ -195,17 +195,7 @@ public final class ServiceRefResourceProvider implements MCBasedResourceProvider
       // process injection targets
       if (serviceRefSBMD.getInjectionTargets() != null && serviceRefSBMD.getInjectionTargets().size() > 0)
       {
-         if (serviceRefSBMD.getInjectionTargets().size() > 1)
-         {
-            // TODO: We should validate all the injection targets whether they're compatible.
-            // This means all the injection targets must be assignable or equivalent.
-            // If there are @Addressing, @RespectBinding or @MTOM annotations present on injection targets,
-            // these annotations must be equivalent for all the injection targets.
-         }
-         final InjectionTarget injectionTarget = serviceRefSBMD.getInjectionTargets().iterator().next();
-
-         AccessibleObject anAlement = this.findInjectionTarget(loader, injectionTarget);
-         this.processAnnotatedElement(anAlement, serviceRefUMDM);
+         this.processInjectionTargets(loader, serviceRefSBMD, serviceRefUMDM);
       }
 
       // propagate port compoments
@@ -253,7 +243,7 @@ public final class ServiceRefResourceProvider implements MCBasedResourceProvider
       }
 
       // detect JAXWS or JAXRPC type
-      this.processType(serviceRefUMDM);
+      this.processType(serviceRefUMDM, loader);
 
       return serviceRefUMDM;
    }
@@ -487,30 +477,187 @@ public final class ServiceRefResourceProvider implements MCBasedResourceProvider
       }
    }
 
-   private void processAnnotatedElement(final AnnotatedElement anElement, final UnifiedServiceRefMetaData serviceRefUMDM)
+   /**
+    * Analyses all injection targets of service ref in one pass.
+    * Injected types must be assignable, the most specific one defines service ref type.
+    * Addressing, MTOM, RespectBinding and HandlerChain annotations must be equivalent for all injection targets,
+    * i.e. either absent on all of them or present with equal values on all of them.
+    *
+    * @param loader deployment class loader
+    * @param serviceRefSBMD service reference switchboard meta data
+    * @param serviceRefUMDM service reference unified meta data
+    * @throws IllegalStateException if injection targets are not compatible
+    */
+   private void processInjectionTargets(final ClassLoader loader, final ServiceRefType serviceRefSBMD,
+         final UnifiedServiceRefMetaData serviceRefUMDM)
+   {
+      final String serviceRefName = serviceRefSBMD.getName();
+      AccessibleObject firstElement = null;
+      AccessibleObject mostSpecificElement = null;
+
+      for (final InjectionTarget injectionTarget : serviceRefSBMD.getInjectionTargets())
+      {
+         final AccessibleObject anElement = this.findInjectionTarget(loader, injectionTarget);
+
+         if (firstElement == null)
+         {
+            firstElement = anElement;
+         }
+         else
+         {
+            this.ensureEquivalentAnnotation(firstElement, anElement, javax.xml.ws.soap.Addressing.class, serviceRefName);
+            this.ensureEquivalentAnnotation(firstElement, anElement, MTOM.class, serviceRefName);
+            this.ensureEquivalentAnnotation(firstElement, anElement, javax.xml.ws.RespectBinding.class, serviceRefName);
+            this.ensureEquivalentHandlerChain(firstElement, anElement, serviceRefName);
+         }
+
+         mostSpecificElement = this.getMoreSpecificElement(mostSpecificElement, anElement, serviceRefName);
+      }
+
+      // annotations are equivalent on all injection targets
+      this.processAddressingAnnotation(this.getAnnotation(firstElement, javax.xml.ws.soap.Addressing.class), serviceRefUMDM);
+      this.processMTOMAnnotation(this.getAnnotation(firstElement, MTOM.class), serviceRefUMDM);
+      this.processRespectBindingAnnotation(this.getAnnotation(firstElement, javax.xml.ws.RespectBinding.class), serviceRefUMDM);
+      this.processHandlerChainAnnotation(firstElement, serviceRefUMDM);
+      this.processServiceRefType(mostSpecificElement, serviceRefUMDM);
+   }
+
+   /**
+    * Returns injection target with more specific injected type.
+    *
+    * @param oldElement injection target found so far or null
+    * @param newElement next injection target
+    * @param serviceRefName service ref name
+    * @return injection target with more specific injected type
+    * @throws IllegalStateException if injected types are not assignable
+    */
+   private AccessibleObject getMoreSpecificElement(final AccessibleObject oldElement,
+         final AccessibleObject newElement, final String serviceRefName)
+   {
+      if (oldElement == null)
+      {
+         return newElement;
+      }
+
+      final Class<?> oldType = this.getInjectedType(oldElement);
+      final Class<?> newType = this.getInjectedType(newElement);
+
+      if (oldType.isAssignableFrom(newType))
+      {
+         return newElement;
+      }
+      if (newType.isAssignableFrom(oldType))
+      {
+         return oldElement;
+      }
+
+      throw new IllegalStateException(BundleUtils.getMessage(bundle, "INCOMPATIBLE_INJECTION_TARGETS", new Object[]{serviceRefName, oldElement, newElement}));
+   }
+
+   /**
+    * Ensures annotation is either absent on both injection targets or present with equal values on both of them.
+    *
+    * @param oldElement already processed injection target
+    * @param newElement next injection target
+    * @param annotationClass annotation type
+    * @param serviceRefName service ref name
+    * @throws IllegalStateException if annotations are not equivalent
+    */
+   private void ensureEquivalentAnnotation(final AccessibleObject oldElement, final AccessibleObject newElement,
+         final Class<? extends Annotation> annotationClass, final String serviceRefName)
+   {
+      final Annotation oldAnnotation = this.getAnnotation(oldElement, annotationClass);
+      final Annotation newAnnotation = this.getAnnotation(newElement, annotationClass);
+      final boolean equivalent = oldAnnotation == null ? newAnnotation == null : oldAnnotation.equals(newAnnotation);
+
+      if (!equivalent)
+      {
+         throw new IllegalStateException(BundleUtils.getMessage(bundle, "INCOMPATIBLE_INJECTION_TARGETS", new Object[]{serviceRefName, oldElement, newElement}));
+      }
+   }
+
+   /**
+    * Ensures both injection targets resolve to the same handler chain.
+    * Resolved paths are compared because relative @HandlerChain files depend on declaring class package.
+    *
+    * @param oldElement already processed injection target
+    * @param newElement next injection target
+    * @param serviceRefName service ref name
+    * @throws IllegalStateException if handler chains differ
+    */
+   private void ensureEquivalentHandlerChain(final AccessibleObject oldElement, final AccessibleObject newElement,
+         final String serviceRefName)
+   {
+      final String oldHandlerChain = this.getHandlerChain(oldElement);
+      final String newHandlerChain = this.getHandlerChain(newElement);
+      final boolean equivalent = oldHandlerChain == null ? newHandlerChain == null : oldHandlerChain.equals(newHandlerChain);
+
+      if (!equivalent)
+      {
+         throw new IllegalStateException(BundleUtils.getMessage(bundle, "INCOMPATIBLE_INJECTION_TARGETS", new Object[]{serviceRefName, oldElement, newElement}));
+      }
+   }
+
+   private Class<?> getInjectedType(final AccessibleObject anElement)
    {
-      this.processAddressingAnnotation(anElement, serviceRefUMDM);
-      this.processMTOMAnnotation(anElement, serviceRefUMDM);
-      this.processRespectBindingAnnotation(anElement, serviceRefUMDM);
-      this.processHandlerChainAnnotation(anElement, serviceRefUMDM);
-      this.processServiceRefType(anElement, serviceRefUMDM);
+      if (anElement instanceof Field)
+         return ((Field) anElement).getType();
+      else
+         return ((Method) anElement).getParameterTypes()[0];
    }
 
-   // TODO: use classloader to detect service ref type
-   private void processType(final UnifiedServiceRefMetaData serviceRefUMDM)
+   private void processType(final UnifiedServiceRefMetaData serviceRefUMDM, final ClassLoader loader)
    {
       final boolean isJAXRPC = serviceRefUMDM.getMappingFile() != null // TODO: is mappingFile check required?
-            || "javax.xml.rpc.Service".equals(serviceRefUMDM.getServiceInterface());
+            || this.isJAXRPCService(serviceRefUMDM.getServiceInterface(), loader);
 
       serviceRefUMDM.setType(isJAXRPC ? Type.JAXRPC : Type.JAXWS);
+      log.debug("Service ref " + serviceRefUMDM.getServiceRefName() + " detected as " + serviceRefUMDM.getType());
    }
 
-   private void processAddressingAnnotation(final AnnotatedElement anElement,
-         final UnifiedServiceRefMetaData serviceRefUMDM)
+   /**
+    * Detects JAX-RPC service interface using deployment class loader.
+    *
+    * @param serviceInterface service interface class name
+    * @param loader deployment class loader
+    * @return true if service interface is javax.xml.rpc.Service or its subtype, false otherwise
+    */
+   private boolean isJAXRPCService(final String serviceInterface, final ClassLoader loader)
    {
-      final javax.xml.ws.soap.Addressing addressingAnnotation = this.getAnnotation(anElement,
-            javax.xml.ws.soap.Addressing.class);
+      if (serviceInterface == null)
+      {
+         return false;
+      }
+      if ("javax.xml.rpc.Service".equals(serviceInterface))
+      {
+         return true;
+      }
+
+      try
+      {
+         final Class<?> serviceClass = loader.loadClass(serviceInterface);
+         if (Service.class.isAssignableFrom(serviceClass))
+         {
+            return false;
+         }
 
+         return loader.loadClass("javax.xml.rpc.Service").isAssignableFrom(serviceClass);
+      }
+      catch (ClassNotFoundException e)
+      {
+         // either service interface or JAX-RPC API is not visible
+         return false;
+      }
+      catch (LinkageError e)
+      {
+         // service interface cannot be linked, e.g. its supertype is missing
+         return false;
+      }
+   }
+
+   private void processAddressingAnnotation(final javax.xml.ws.soap.Addressing addressingAnnotation,
+         final UnifiedServiceRefMetaData serviceRefUMDM)
+   {
       if (addressingAnnotation != null)
       {
          serviceRefUMDM.setAddressingAnnotationSpecified(true);
@@ -520,10 +667,8 @@ public final class ServiceRefResourceProvider implements MCBasedResourceProvider
       }
    }
 
-   private void processMTOMAnnotation(final AnnotatedElement anElement, final UnifiedServiceRefMetaData serviceRefUMDM)
+   private void processMTOMAnnotation(final MTOM mtomAnnotation, final UnifiedServiceRefMetaData serviceRefUMDM)
    {
-      final MTOM mtomAnnotation = this.getAnnotation(anElement, MTOM.class);
-
       if (mtomAnnotation != null)
       {
          serviceRefUMDM.setMtomAnnotationSpecified(true);
@@ -532,12 +677,9 @@ public final class ServiceRefResourceProvider implements MCBasedResourceProvider
       }
    }
 
-   private void processRespectBindingAnnotation(final AnnotatedElement anElement,
+   private void processRespectBindingAnnotation(final javax.xml.ws.RespectBinding respectBindingAnnotation,
          final UnifiedServiceRefMetaData serviceRefUMDM)
    {
-      final javax.xml.ws.RespectBinding respectBindingAnnotation = this.getAnnotation(anElement,
-            javax.xml.ws.RespectBinding.class);
-
       if (respectBindingAnnotation != null)
       {
          serviceRefUMDM.setRespectBindingAnnotationSpecified(true);
@@ -580,33 +722,39 @@ public final class ServiceRefResourceProvider implements MCBasedResourceProvider
 
    private void processHandlerChainAnnotation(final AnnotatedElement anElement,
          final UnifiedServiceRefMetaData serviceRefUMDM)
+   {
+      // Set the handlerChain from @HandlerChain on the annotated element
+      final String handlerChain = this.getHandlerChain(anElement);
+
+      if (handlerChain != null)
+      {
+         serviceRefUMDM.setHandlerChain(handlerChain);
+      }
+   }
+
+   private String getHandlerChain(final AnnotatedElement anElement)
    {
       final javax.jws.HandlerChain handlerChainAnnotation = this.getAnnotation(anElement, javax.jws.HandlerChain.class);
+      String handlerChain = null;
 
-      if (handlerChainAnnotation != null)
+      if (handlerChainAnnotation != null && handlerChainAnnotation.file().length() > 0)
       {
-         // Set the handlerChain from @HandlerChain on the annotated element
-         String handlerChain = null;
-         if (handlerChainAnnotation.file().length() > 0)
-            handlerChain = handlerChainAnnotation.file();
+         handlerChain = handlerChainAnnotation.file();
 
          // Resolve path to handler chain
-         if (handlerChain != null)
+         try
          {
-            try
-            {
-               new URL(handlerChain);
-            }
-            catch (MalformedURLException ignored)
-            {
-               final Class<?> declaringClass = getDeclaringClass(anElement);
-
-               handlerChain = declaringClass.getPackage().getName().replace('.', '/') + "/" + handlerChain;
-            }
+            new URL(handlerChain);
+         }
+         catch (MalformedURLException ignored)
+         {
+            final Class<?> declaringClass = getDeclaringClass(anElement);
 
-            serviceRefUMDM.setHandlerChain(handlerChain);
+            handlerChain = declaringClass.getPackage().getName().replace('.', '/') + "/" + handlerChain;
          }
       }
+
+      return handlerChain;
    }
 
    private Class<?> getDeclaringClass(final AnnotatedElement annotatedElement)
@@ -687,10 +835,14 @@ public final class ServiceRefResourceProvider implements MCBasedResourceProvider
          throw new RuntimeException(BundleUtils.getMessage(bundle, "INJECTION_TARGET_CLASS_NOT_FOUND",  target.getTargetClass()));
       }
 
-      for (Field field : clazz.getDeclaredFields())
+      try
+      {
+         // direct lookup, avoids copying all declared fields
+         return clazz.getDeclaredField(target.getTargetName());
+      }
+      catch (NoSuchFieldException ignore)
       {
-         if (target.getTargetName().equals(field.getName()))
-            return field;
+         // not a field injection target, try setter
       }
 
       final String targetName = getMethodName(target);
@@ -21,6 +21,8 @@
  */
 package org.jboss.webservices.integration.injection;
 
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
@@ -29,8 +31,12 @@ import java.io.ObjectStreamField;
 import java.io.OutputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.LinkedList;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.ResourceBundle;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
@@ -68,6 +74,8 @@ public final class VirtualFileAdaptor implements WritableUnifiedVirtualFile
    private boolean requiresMount;
    /** The virtual file */
    private transient VirtualFile file;
+   /** Mount state of the virtual file, null if not computed yet */
+   private transient Boolean mounted;
 
    public VirtualFileAdaptor(VirtualFile file)
    {
@@ -117,9 +125,13 @@ public final class VirtualFileAdaptor implements WritableUnifiedVirtualFile
          {
             throw new IOException(BundleUtils.getMessage(bundle, "VIRTUALFILE_DOES_NOT_EXIST",  file ));
          }
-         else if (requiresMount && !isMounted(root, file))
+         else if (requiresMount)
          {
-            throw new IOException(BundleUtils.getMessage(bundle, "VIRTUALFILE_IS_NOT_MOUNTED",  file ));
+            mounted = isMounted(root, file);
+            if (!mounted)
+            {
+               throw new IOException(BundleUtils.getMessage(bundle, "VIRTUALFILE_IS_NOT_MOUNTED",  file ));
+            }
          }
       }
       return file;
@@ -177,6 +189,10 @@ public final class VirtualFileAdaptor implements WritableUnifiedVirtualFile
             }
             VFSUtils.safeClose(os);
          }
+         else if (is instanceof FileInputStream && bos instanceof FileOutputStream)
+         {
+            transferContent((FileInputStream)is, (FileOutputStream)bos);
+         }
          else
          {
             VFSUtils.copyStream(is, bos);
@@ -187,15 +203,44 @@ public final class VirtualFileAdaptor implements WritableUnifiedVirtualFile
          VFSUtils.safeClose(is);
       }
    }
+
+   /**
+    * Copies plain file content using file channels, avoiding copying through user space buffers.
+    * If the channel transfer stops making progress (e.g. the file was truncated or replaced meanwhile)
+    * the rest of the content is copied through the input stream.
+    *
+    * @param is file input stream
+    * @param os file output stream
+    * @throws IOException for any error
+    */
+   private static void transferContent(FileInputStream is, FileOutputStream os) throws IOException
+   {
+      final FileChannel in = is.getChannel();
+      final FileChannel out = os.getChannel();
+      long position = in.position();
+      long size = in.size();
+      while (position < size)
+      {
+         final long transferred = in.transferTo(position, size - position, out);
+         if (transferred <= 0)
+            break;
+         position += transferred;
+         size = in.size();
+      }
+      in.position(position);
+      VFSUtils.copyStream(is, os);
+   }
    
    private void writeObject(ObjectOutputStream out) throws IOException, URISyntaxException
    {
       VirtualFile file = getFile();
       URL url = rootUrl;
+      VirtualFile root = null;
       if (url == null)
       {
          VirtualFile parentFile = file.getParent();
          url = parentFile != null ? parentFile.toURL() : null;
+         root = parentFile;
       }
       String pathName = path;
       if (pathName == null)
@@ -204,11 +249,16 @@ public final class VirtualFileAdaptor implements WritableUnifiedVirtualFile
       ObjectOutputStream.PutField fields = out.putFields();
       fields.put("rootUrl", url);
       fields.put("path", pathName);
-      
-      VirtualFile newRoot = VFS.getChild(url);
-      VirtualFile newChild = newRoot.getChild(pathName);
-      fields.put("requiresMount", isMounted(newRoot, newChild));
-            
+
+      // the mount state is computed only once, the file is already resolved against its root
+      if (mounted == null)
+      {
+         if (root == null)
+            root = VFS.getChild(url);
+         mounted = isMounted(root, file);
+      }
+      fields.put("requiresMount", mounted.booleanValue());
+
       out.writeFields();
    }
 
@@ -225,12 +275,7 @@ public final class VirtualFileAdaptor implements WritableUnifiedVirtualFile
       List<VirtualFile> vfList = getFile().getChildren();
       if (vfList == null)
          return null;
-      List<UnifiedVirtualFile> uvfList = new LinkedList<UnifiedVirtualFile>();
-      for (VirtualFile vf : vfList)
-      {
-         uvfList.add(new VirtualFileAdaptor(vf));
-      }
-      return uvfList;
+      return new ChildrenList(vfList);
    }
 
    public String getName()
@@ -244,4 +289,79 @@ public final class VirtualFileAdaptor implements WritableUnifiedVirtualFile
          throw new RuntimeException(e);
       }
    }
+
+   /**
+    * Indexed view of child files, the adaptors are created on first access.
+    * The list stays modifiable, it is copied to an ArrayList on first modification.
+    * Like the LinkedList returned before, structural modifications are not thread safe.
+    */
+   private static final class ChildrenList extends AbstractList<UnifiedVirtualFile> implements RandomAccess
+   {
+      private final VirtualFile[] files;
+      /** Lazily created adaptors, safely published to other threads */
+      private final AtomicReferenceArray<UnifiedVirtualFile> adaptors;
+      /** Children copy, created on first modification */
+      private List<UnifiedVirtualFile> modified;
+
+      private ChildrenList(List<VirtualFile> files)
+      {
+         this.files = files.toArray(new VirtualFile[files.size()]);
+         this.adaptors = new AtomicReferenceArray<UnifiedVirtualFile>(this.files.length);
+      }
+
+      @Override
+      public UnifiedVirtualFile get(int index)
+      {
+         if (modified != null)
+            return modified.get(index);
+
+         final UnifiedVirtualFile adaptor = adaptors.get(index);
+         if (adaptor != null)
+            return adaptor;
+
+         final UnifiedVirtualFile newAdaptor = new VirtualFileAdaptor(files[index]);
+         return adaptors.compareAndSet(index, null, newAdaptor) ? newAdaptor : adaptors.get(index);
+      }
+
+      @Override
+      public UnifiedVirtualFile set(int index, UnifiedVirtualFile element)
+      {
+         return getModifiableList().set(index, element);
+      }
+
+      @Override
+      public void add(int index, UnifiedVirtualFile element)
+      {
+         getModifiableList().add(index, element);
+         modCount++;
+      }
+
+      @Override
+      public UnifiedVirtualFile remove(int index)
+      {
+         final UnifiedVirtualFile removed = getModifiableList().remove(index);
+         modCount++;
+         return removed;
+      }
+
+      @Override
+      public int size()
+      {
+         return modified != null ? modified.size() : files.length;
+      }
+
+      private List<UnifiedVirtualFile> getModifiableList()
+      {
+         if (modified == null)
+         {
+            final List<UnifiedVirtualFile> children = new ArrayList<UnifiedVirtualFile>(files.length + 1);
+            for (int i = 0; i < files.length; i++)
+            {
+               children.add(get(i));
+            }
+            modified = children;
+         }
+         return modified;
+      }
+   }
 }
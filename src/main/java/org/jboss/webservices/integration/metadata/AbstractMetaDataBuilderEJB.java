@@ -21,6 +21,10 @@
  */
 package org.jboss.webservices.integration.metadata;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.jboss.logging.Logger;
 import org.jboss.ws.common.integration.WSHelper;
 import org.jboss.wsf.spi.deployment.Deployment;
@@ -106,14 +110,27 @@ abstract class AbstractMetaDataBuilderEJB
       ejbArchiveMD.setPublishLocationAdapter(resolver);
    }
 
-   protected JBossPortComponentMetaData getPortComponent(final String ejbName, final JBossWebservicesMetaData jbossWebservicesMD) {
-       if (jbossWebservicesMD == null) return null;
-       
-       for (final JBossPortComponentMetaData jbossPortComponentMD : jbossWebservicesMD.getPortComponents()) {
-           if (ejbName.equals(jbossPortComponentMD.getEjbName())) return jbossPortComponentMD;
-       }
-       
-       return null;
+   /**
+    * Indexes port components by EJB name. If more port components reference the same EJB, the first one wins.
+    *
+    * @param jbossWebservicesMD jboss webservices meta data
+    * @return EJB name to port component mappings
+    */
+   protected Map<String, JBossPortComponentMetaData> getPortComponents(final JBossWebservicesMetaData jbossWebservicesMD)
+   {
+      if (jbossWebservicesMD == null) return Collections.emptyMap();
+
+      final Map<String, JBossPortComponentMetaData> portComponentsMD = new HashMap<String, JBossPortComponentMetaData>();
+      for (final JBossPortComponentMetaData jbossPortComponentMD : jbossWebservicesMD.getPortComponents())
+      {
+         final String ejbName = jbossPortComponentMD.getEjbName();
+         if (ejbName != null && !portComponentsMD.containsKey(ejbName))
+         {
+            portComponentsMD.put(ejbName, jbossPortComponentMD);
+         }
+      }
+
+      return portComponentsMD;
    }
 
 }
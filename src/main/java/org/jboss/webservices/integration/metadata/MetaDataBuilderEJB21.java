@@ -23,6 +23,7 @@ package org.jboss.webservices.integration.metadata;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.metadata.ejb.jboss.JBossEnterpriseBeanMetaData;
 import org.jboss.metadata.ejb.jboss.JBossMetaData;
@@ -65,10 +66,11 @@ final class MetaDataBuilderEJB21 extends AbstractMetaDataBuilderEJB
       final JBossMetaData jbossMetaData = WSHelper.getRequiredAttachment(dep, JBossMetaData.class);
       final List<EJBMetaData> wsEjbsMD = new LinkedList<EJBMetaData>();
       final JBossWebservicesMetaData jbossWebservicesMD = WSHelper.getOptionalAttachment(dep, JBossWebservicesMetaData.class);
+      final Map<String, JBossPortComponentMetaData> portComponentsMD = this.getPortComponents(jbossWebservicesMD);
 
       for (final JBossEnterpriseBeanMetaData jbossEjbMD : jbossMetaData.getEnterpriseBeans())
       {
-         this.buildEnterpriseBeanMetaData(wsEjbsMD, jbossEjbMD, jbossWebservicesMD);
+         this.buildEnterpriseBeanMetaData(wsEjbsMD, jbossEjbMD, portComponentsMD);
       }
 
       ejbArchiveMD.setEnterpriseBeans(wsEjbsMD);
@@ -83,9 +85,10 @@ final class MetaDataBuilderEJB21 extends AbstractMetaDataBuilderEJB
     *
     * @param wsEjbsMD jboss agnostic EJBs meta data
     * @param jbossEjbMD jboss specific EJB meta data
+    * @param portComponentsMD EJB name to port component mappings
     */
    private void buildEnterpriseBeanMetaData(final List<EJBMetaData> wsEjbsMD,
-         final JBossEnterpriseBeanMetaData jbossEjbMD, final JBossWebservicesMetaData jbossWebservicesMD)
+         final JBossEnterpriseBeanMetaData jbossEjbMD, final Map<String, JBossPortComponentMetaData> portComponentsMD)
    {
       final EJBMetaData wsEjbMD = newEjbMetaData(jbossEjbMD);
 
@@ -108,7 +111,7 @@ final class MetaDataBuilderEJB21 extends AbstractMetaDataBuilderEJB
             wsEjbMD.setJndiName(sessionEjbMD.determineJndiName());
             wsEjbMD.setLocalJndiName(jbossEjbMD.determineLocalJndiName());
 
-            final JBossPortComponentMetaData jbossPortComponentMD = getPortComponent(jbossEjbMD.getEjbName(), jbossWebservicesMD);
+            final JBossPortComponentMetaData jbossPortComponentMD = portComponentsMD.get(jbossEjbMD.getEjbName());
             if (jbossPortComponentMD != null)
             {
                 // set port component meta data
@@ -23,6 +23,7 @@ package org.jboss.webservices.integration.metadata;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.metadata.ejb.jboss.JBossEnterpriseBeanMetaData;
 import org.jboss.metadata.ejb.jboss.JBossMetaData;
@@ -66,12 +67,13 @@ final class MetaDataBuilderEJB3 extends AbstractMetaDataBuilderEJB
       final WebServiceDeployment ejb3Deployment = WSHelper.getRequiredAttachment(dep, WebServiceDeployment.class);
       final List<EJBMetaData> wsEjbsMD = new LinkedList<EJBMetaData>();
       final JBossWebservicesMetaData jbossWebservicesMD = WSHelper.getOptionalAttachment(dep, JBossWebservicesMetaData.class);
+      final Map<String, JBossPortComponentMetaData> portComponentsMD = this.getPortComponents(jbossWebservicesMD);
 
       for (final WebServiceDeclaration ejbEndpoint : ejb3Deployment.getServiceEndpoints())
       {
          final String ejbName = ejbEndpoint.getComponentName();
          final JBossEnterpriseBeanMetaData jbossEjbMD = jbossMetaData.getEnterpriseBean(ejbName);
-         this.buildEnterpriseBeanMetaData(wsEjbsMD, jbossEjbMD, jbossWebservicesMD);
+         this.buildEnterpriseBeanMetaData(wsEjbsMD, jbossEjbMD, portComponentsMD);
       }
 
       ejbArchiveMD.setEnterpriseBeans(wsEjbsMD);
@@ -82,8 +84,9 @@ final class MetaDataBuilderEJB3 extends AbstractMetaDataBuilderEJB
     *
     * @param wsEjbsMD jboss agnostic EJBs meta data
     * @param jbossEjbMD jboss specific EJB meta data
+    * @param portComponentsMD EJB name to port component mappings
     */
-   private void buildEnterpriseBeanMetaData(final List<EJBMetaData> wsEjbsMD, final JBossEnterpriseBeanMetaData jbossEjbMD, final JBossWebservicesMetaData jbossWebservicesMD)
+   private void buildEnterpriseBeanMetaData(final List<EJBMetaData> wsEjbsMD, final JBossEnterpriseBeanMetaData jbossEjbMD, final Map<String, JBossPortComponentMetaData> portComponentsMD)
    {
       log.debug("Creating JBoss agnostic EJB3 meta data for session bean: " + jbossEjbMD.getEjbClass());
       final EJBMetaData wsEjbMD = new SLSBMetaData();
@@ -92,7 +95,7 @@ final class MetaDataBuilderEJB3 extends AbstractMetaDataBuilderEJB
 
       if (jbossEjbMD.isSession())
       {
-         final JBossPortComponentMetaData portComponentMD = getPortComponent(jbossEjbMD.getEjbName(), jbossWebservicesMD);
+         final JBossPortComponentMetaData portComponentMD = portComponentsMD.get(jbossEjbMD.getEjbName());
          if (portComponentMD != null)
          {
             // set port component meta data
@@ -206,19 +206,45 @@ final class MetaDataBuilderJSE
    /**
     * Returns servlet name to url pattern mappings.
     *
+    * The container agnostic model can hold only one url pattern per servlet,
+    * so the first url pattern of the last servlet mapping is used
+    * and the remaining ones are only reported in the log.
+    *
     * @param jbossWebMD jboss web meta data
     * @return servlet name to url pattern mappings
     */
    private Map<String, String> getServletUrlPatternsMappings(final JBossWebMetaData jbossWebMD)
    {
-      final Map<String, String> mappings = new HashMap<String, String>();
       final List<ServletMappingMetaData> servletMappings = jbossWebMD.getServletMappings();
 
-      if (servletMappings != null)
+      if (servletMappings == null)
+      {
+         return new HashMap<String, String>();
+      }
+
+      final Map<String, String> mappings = new HashMap<String, String>(servletMappings.size() * 4 / 3 + 1);
+      for (final ServletMappingMetaData mapping : servletMappings)
       {
-         for (final ServletMappingMetaData mapping : servletMappings)
+         final List<String> urlPatterns = mapping.getUrlPatterns();
+         if (urlPatterns == null || urlPatterns.isEmpty())
+         {
+            // nothing to map, skip it instead of failing on missing url pattern
+            continue;
+         }
+
+         final String servletName = mapping.getServletName();
+         final String urlPattern = urlPatterns.get(0);
+         final String previousUrlPattern = mappings.put(servletName, urlPattern);
+
+         if (urlPatterns.size() > 1)
+         {
+            this.log.debug("Ignoring URL patterns: " + urlPatterns.subList(1, urlPatterns.size()) + " for servlet: "
+                  + servletName);
+         }
+         if (previousUrlPattern != null)
          {
-            mappings.put(mapping.getServletName(), mapping.getUrlPatterns().get(0));
+            this.log.debug("Overriding URL pattern: " + previousUrlPattern + " with: " + urlPattern + " for servlet: "
+                  + servletName);
          }
       }
 
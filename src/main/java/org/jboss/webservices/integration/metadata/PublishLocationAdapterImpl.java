@@ -21,6 +21,9 @@
  */
 package org.jboss.webservices.integration.metadata;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.jboss.wsf.spi.metadata.j2ee.PublishLocationAdapter;
 import org.jboss.wsf.spi.metadata.webservices.JBossWebserviceDescriptionMetaData;
 
@@ -32,8 +35,8 @@ import org.jboss.wsf.spi.metadata.webservices.JBossWebserviceDescriptionMetaData
  */
 final class PublishLocationAdapterImpl implements PublishLocationAdapter
 {
-   /** Webservice descriptions meta data. */
-   private final JBossWebserviceDescriptionMetaData[] wsDescriptionsMD;
+   /** Webservice description name to WSDL publish location mappings. */
+   private final Map<String, String> publishLocations = new HashMap<String, String>();
 
    /**
     * Constructor.
@@ -42,7 +45,18 @@ final class PublishLocationAdapterImpl implements PublishLocationAdapter
     */
    PublishLocationAdapterImpl(final JBossWebserviceDescriptionMetaData[] wsDescriptionsMD)
    {
-      this.wsDescriptionsMD = wsDescriptionsMD;
+      if (wsDescriptionsMD != null)
+      {
+         for (final JBossWebserviceDescriptionMetaData wsDescriptionMD : wsDescriptionsMD)
+         {
+            final String wsDescriptionName = wsDescriptionMD.getWebserviceDescriptionName();
+            // first matching webservice description wins
+            if (!this.publishLocations.containsKey(wsDescriptionName))
+            {
+               this.publishLocations.put(wsDescriptionName, wsDescriptionMD.getWsdlPublishLocation());
+            }
+         }
+      }
    }
 
    /**
@@ -53,16 +67,7 @@ final class PublishLocationAdapterImpl implements PublishLocationAdapter
     */
    public String getWsdlPublishLocationByName(final String endpointName)
    {
-      if (wsDescriptionsMD != null)
-      {
-         for (final JBossWebserviceDescriptionMetaData wsDescriptionMD : wsDescriptionsMD)
-         {
-             if (endpointName.equals(wsDescriptionMD.getWebserviceDescriptionName()))
-                 return wsDescriptionMD.getWsdlPublishLocation();
-         }
-      }
-
-      return null;
+      return this.publishLocations.get(endpointName);
    }
 
 }
@@ -82,8 +82,9 @@ final class WebMetaDataCreator
          jbossWebMD = new JBossWebMetaData();
       }
 
-      this.createWebAppDescriptor(dep, jbossWebMD);
-      this.createJBossWebAppDescriptor(dep, jbossWebMD);
+      final SecurityMetaDataAccessorEJB ejbMDAccessor = this.getEjbSecurityMetaDataAccessor(dep);
+      this.createWebAppDescriptor(dep, jbossWebMD, ejbMDAccessor);
+      this.createJBossWebAppDescriptor(dep, jbossWebMD, ejbMDAccessor);
 
       dep.addAttachment(JBossWebMetaData.class, jbossWebMD);
       unit.addAttachment(JBossWebMetaData.class, jbossWebMD);
@@ -91,18 +92,41 @@ final class WebMetaDataCreator
 
    /**
     * Creates web.xml descriptor meta data.
+    * Servlets, servlet mappings and security constraints are created in a single pass over endpoints.
+    * Endpoint security meta data are evaluated only once in this pass.
     *
     * @param dep webservice deployment
     * @param jbossWebMD jboss web meta data
+    * @param ejbMDAccessor EJB security meta data accessor
     */
-   private void createWebAppDescriptor(final Deployment dep, final JBossWebMetaData jbossWebMD)
+   private void createWebAppDescriptor(final Deployment dep, final JBossWebMetaData jbossWebMD,
+         final SecurityMetaDataAccessorEJB ejbMDAccessor)
    {
       this.log.debug("Creating web descriptor");
-      this.createServlets(dep, jbossWebMD);
-      this.createServletMappings(dep, jbossWebMD);
-      this.createSecurityConstraints(dep, jbossWebMD);
-      this.createLoginConfig(dep, jbossWebMD);
-      this.createSecurityRoles(dep, jbossWebMD);
+      final JBossServletsMetaData servlets = WebMetaDataHelper.getServlets(jbossWebMD);
+      final List<ServletMappingMetaData> servletMappings = WebMetaDataHelper.getServletMappings(jbossWebMD);
+      String deploymentAuthMethod = null;
+
+      for (final Endpoint endpoint : dep.getService().getEndpoints())
+      {
+         final String authMethod = ejbMDAccessor.getAuthMethod(endpoint);
+         if (deploymentAuthMethod == null)
+         {
+            // First found auth-method defines war login-config/auth-method
+            deploymentAuthMethod = authMethod;
+         }
+
+         this.createServlet(endpoint, servlets);
+
+         if (endpoint instanceof HttpEndpoint)
+         {
+            this.createServletMapping((HttpEndpoint) endpoint, servletMappings);
+            this.createSecurityConstraint(ejbMDAccessor, (HttpEndpoint) endpoint, authMethod, jbossWebMD);
+         }
+      }
+
+      this.createLoginConfig(deploymentAuthMethod, jbossWebMD);
+      this.createSecurityRoles(dep, deploymentAuthMethod, ejbMDAccessor, jbossWebMD);
    }
 
    /**
@@ -120,11 +144,12 @@ final class WebMetaDataCreator
     *
     * @param dep webservice deployment
     * @param jbossWebMD jboss web meta data
+    * @param ejbMDAccessor EJB security meta data accessor
     */
-   private void createJBossWebAppDescriptor(final Deployment dep, final JBossWebMetaData jbossWebMD)
+   private void createJBossWebAppDescriptor(final Deployment dep, final JBossWebMetaData jbossWebMD,
+         final SecurityMetaDataAccessorEJB ejbMDAccessor)
    {
       this.log.debug("Creating jboss web descriptor");
-      final SecurityMetaDataAccessorEJB ejbMDAccessor = this.getEjbSecurityMetaDataAccessor(dep);
 
       // Set security domain
       final String securityDomain = ejbMDAccessor.getSecurityDomain(dep);
@@ -146,7 +171,7 @@ final class WebMetaDataCreator
    }
 
    /**
-    * Creates servlets part of web.xml descriptor.
+    * Creates servlet part of web.xml descriptor.
     *
     * <pre>
     * &lt;servlet&gt;
@@ -155,22 +180,16 @@ final class WebMetaDataCreator
     * &lt;/servlet&gt;
     * </pre>
     *
-    * @param dep webservice deployment
-    * @param jbossWebMD jboss web meta data
+    * @param endpoint webservice endpoint
+    * @param servlets servlets meta data
     */
-   private void createServlets(final Deployment dep, final JBossWebMetaData jbossWebMD)
+   private void createServlet(final Endpoint endpoint, final JBossServletsMetaData servlets)
    {
-      this.log.debug("Creating servlets");
-      final JBossServletsMetaData servlets = WebMetaDataHelper.getServlets(jbossWebMD);
+      final String endpointName = endpoint.getShortName();
+      final String endpointClassName = endpoint.getTargetBeanName();
 
-      for (final Endpoint endpoint : dep.getService().getEndpoints())
-      {
-         final String endpointName = endpoint.getShortName();
-         final String endpointClassName = endpoint.getTargetBeanName();
-
-         this.log.debug("Servlet name: " + endpointName + ", servlet class: " + endpointClassName);
-         WebMetaDataHelper.newServlet(endpointName, endpointClassName, servlets);
-      }
+      this.log.debug("Servlet name: " + endpointName + ", servlet class: " + endpointClassName);
+      WebMetaDataHelper.newServlet(endpointName, endpointClassName, servlets);
    }
 
    /**
@@ -183,29 +202,20 @@ final class WebMetaDataCreator
     * &lt;/servlet-mapping&gt;
     * </pre>
     *
-    * @param dep webservice deployment
-    * @param jbossWebMD jboss web meta data
+    * @param endpoint webservice HTTP endpoint
+    * @param servletMappings servlet mappings meta data
     */
-   private void createServletMappings(final Deployment dep, final JBossWebMetaData jbossWebMD)
+   private void createServletMapping(final HttpEndpoint endpoint, final List<ServletMappingMetaData> servletMappings)
    {
-      this.log.debug("Creating servlet mappings");
-      final List<ServletMappingMetaData> servletMappings = WebMetaDataHelper.getServletMappings(jbossWebMD);
+      final String endpointName = endpoint.getShortName();
+      final List<String> urlPatterns = WebMetaDataHelper.getUrlPatterns(endpoint.getURLPattern());
 
-      for (final Endpoint ep : dep.getService().getEndpoints())
-      {
-         if (ep instanceof HttpEndpoint)
-         {
-             final String endpointName = ep.getShortName();
-             final List<String> urlPatterns = WebMetaDataHelper.getUrlPatterns(((HttpEndpoint)ep).getURLPattern());
-
-             this.log.debug("Servlet name: " + endpointName + ", URL patterns: " + urlPatterns);
-             WebMetaDataHelper.newServletMapping(endpointName, urlPatterns, servletMappings);
-         }
-      }
+      this.log.debug("Servlet name: " + endpointName + ", URL patterns: " + urlPatterns);
+      WebMetaDataHelper.newServletMapping(endpointName, urlPatterns, servletMappings);
    }
 
    /**
-    * Creates security constraints part of web.xml descriptor.
+    * Creates security constraint part of web.xml descriptor.
     *
     * <pre>
     * &lt;security-constraint&gt;
@@ -224,55 +234,51 @@ final class WebMetaDataCreator
     * &lt;/security-constraint&gt;
     * </pre>
     *
-    * @param dep webservice deployemnt
+    * @param ejbMDAccessor EJB security meta data accessor
+    * @param ejbEndpoint webservice HTTP endpoint
+    * @param authMethod endpoint authentication method or null if not specified
     * @param jbossWebMD jboss web meta data
     */
-   private void createSecurityConstraints(final Deployment dep, final JBossWebMetaData jbossWebMD)
+   private void createSecurityConstraint(final SecurityMetaDataAccessorEJB ejbMDAccessor,
+         final HttpEndpoint ejbEndpoint, final String authMethod, final JBossWebMetaData jbossWebMD)
    {
-      this.log.debug("Creating security constraints");
-      final SecurityMetaDataAccessorEJB ejbMDAccessor = this.getEjbSecurityMetaDataAccessor(dep);
+      final boolean secureWsdlAccess = ejbMDAccessor.isSecureWsdlAccess(ejbEndpoint);
+      final String transportGuarantee = ejbMDAccessor.getTransportGuarantee(ejbEndpoint);
+      final boolean hasTransportGuarantee = transportGuarantee != null;
+      final boolean hasAuthMethod = authMethod != null;
 
-      for (final Endpoint ejbEndpoint : dep.getService().getEndpoints())
+      if (hasAuthMethod || hasTransportGuarantee)
       {
-         final boolean secureWsdlAccess = ejbMDAccessor.isSecureWsdlAccess(ejbEndpoint);
-         final String transportGuarantee = ejbMDAccessor.getTransportGuarantee(ejbEndpoint);
-         final boolean hasTransportGuarantee = transportGuarantee != null;
-         final String authMethod = ejbMDAccessor.getAuthMethod(ejbEndpoint);
-         final boolean hasAuthMethod = authMethod != null;
+         final List<SecurityConstraintMetaData> securityConstraints = WebMetaDataHelper
+               .getSecurityConstraints(jbossWebMD);
+
+         // security-constraint
+         final SecurityConstraintMetaData securityConstraint = WebMetaDataHelper
+               .newSecurityConstraint(securityConstraints);
+
+         // web-resource-collection
+         final WebResourceCollectionsMetaData webResourceCollections = WebMetaDataHelper
+               .getWebResourceCollections(securityConstraint);
+         final String endpointName = ejbEndpoint.getShortName();
+         final String urlPattern = ejbEndpoint.getURLPattern();
+         this.log.debug("Creating web resource collection for endpoint: " + endpointName + ", URL pattern: "
+               + urlPattern);
+         WebMetaDataHelper.newWebResourceCollection(endpointName, urlPattern, secureWsdlAccess,
+               webResourceCollections);
+
+         // auth-constraint
+         if (hasAuthMethod)
+         {
+            this.log.debug("Creating auth constraint for endpoint: " + endpointName);
+            WebMetaDataHelper.newAuthConstraint(WebMetaDataHelper.getAllRoles(), securityConstraint);
+         }
 
-         if (ejbEndpoint instanceof HttpEndpoint && (hasAuthMethod || hasTransportGuarantee))
+         // user-data-constraint
+         if (hasTransportGuarantee)
          {
-            final List<SecurityConstraintMetaData> securityConstraints = WebMetaDataHelper
-                  .getSecurityConstraints(jbossWebMD);
-
-            // security-constraint
-            final SecurityConstraintMetaData securityConstraint = WebMetaDataHelper
-                  .newSecurityConstraint(securityConstraints);
-
-            // web-resource-collection
-            final WebResourceCollectionsMetaData webResourceCollections = WebMetaDataHelper
-                  .getWebResourceCollections(securityConstraint);
-            final String endpointName = ejbEndpoint.getShortName();
-            final String urlPattern = ((HttpEndpoint)ejbEndpoint).getURLPattern();
-            this.log.debug("Creating web resource collection for endpoint: " + endpointName + ", URL pattern: "
-                  + urlPattern);
-            WebMetaDataHelper.newWebResourceCollection(endpointName, urlPattern, secureWsdlAccess,
-                  webResourceCollections);
-
-            // auth-constraint
-            if (hasAuthMethod)
-            {
-               this.log.debug("Creating auth constraint for endpoint: " + endpointName);
-               WebMetaDataHelper.newAuthConstraint(WebMetaDataHelper.getAllRoles(), securityConstraint);
-            }
-
-            // user-data-constraint
-            if (hasTransportGuarantee)
-            {
-               this.log.debug("Creating new user data constraint for endpoint: " + endpointName
-                     + ", transport guarantee: " + transportGuarantee);
-               WebMetaDataHelper.newUserDataConstraint(transportGuarantee, securityConstraint);
-            }
+            this.log.debug("Creating new user data constraint for endpoint: " + endpointName
+                  + ", transport guarantee: " + transportGuarantee);
+            WebMetaDataHelper.newUserDataConstraint(transportGuarantee, securityConstraint);
          }
       }
    }
@@ -287,12 +293,11 @@ final class WebMetaDataCreator
     * &lt;/login-config&gt;
     * </pre>
     *
-    * @param dep webservice deployment
+    * @param authMethod deployment authentication method or null if not specified
     * @param jbossWebMD jboss web meta data
     */
-   private void createLoginConfig(final Deployment dep, final JBossWebMetaData jbossWebMD)
+   private void createLoginConfig(final String authMethod, final JBossWebMetaData jbossWebMD)
    {
-      final String authMethod = this.getAuthMethod(dep);
       final boolean hasAuthMethod = authMethod != null;
 
       if (hasAuthMethod)
@@ -317,16 +322,17 @@ final class WebMetaDataCreator
     * </pre>
     *
     * @param dep webservice deployment
+    * @param authMethod deployment authentication method or null if not specified
+    * @param ejbMDAccessor EJB security meta data accessor
     * @param jbossWebMD jboss web meta data
     */
-   private void createSecurityRoles(final Deployment dep, final JBossWebMetaData jbossWebMD)
+   private void createSecurityRoles(final Deployment dep, final String authMethod,
+         final SecurityMetaDataAccessorEJB ejbMDAccessor, final JBossWebMetaData jbossWebMD)
    {
-      final String authMethod = this.getAuthMethod(dep);
       final boolean hasAuthMethod = authMethod != null;
 
       if (hasAuthMethod)
       {
-         final SecurityMetaDataAccessorEJB ejbMDAccessor = this.getEjbSecurityMetaDataAccessor(dep);
          final SecurityRolesMetaData securityRolesMD = ejbMDAccessor.getSecurityRoles(dep);
          final boolean hasSecurityRolesMD = securityRolesMD != null;
 
@@ -338,31 +344,6 @@ final class WebMetaDataCreator
       }
    }
 
-   /**
-    * Returns deployment authentication method.
-    *
-    * @param dep webservice deployment
-    * @return deployment authentication method
-    */
-   private String getAuthMethod(final Deployment dep)
-   {
-      final SecurityMetaDataAccessorEJB ejbMDAccessor = this.getEjbSecurityMetaDataAccessor(dep);
-
-      for (final Endpoint ejbEndpoint : dep.getService().getEndpoints())
-      {
-         final String beanAuthMethod = ejbMDAccessor.getAuthMethod(ejbEndpoint);
-         final boolean hasBeanAuthMethod = beanAuthMethod != null;
-
-         if (hasBeanAuthMethod)
-         {
-            // First found auth-method defines war login-config/auth-method
-            return beanAuthMethod;
-         }
-      }
-
-      return null;
-   }
-
    /**
     * Returns security builder associated with EJB deployment.
     *
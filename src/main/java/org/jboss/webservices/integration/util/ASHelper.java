@@ -36,6 +36,7 @@ import org.jboss.metadata.common.jboss.WebserviceDescriptionMetaData;
 import org.jboss.metadata.common.jboss.WebserviceDescriptionsMetaData;
 import org.jboss.metadata.ejb.jboss.JBossMetaData;
 import org.jboss.metadata.web.jboss.JBossServletMetaData;
+import org.jboss.metadata.web.jboss.JBossServletsMetaData;
 import org.jboss.metadata.web.jboss.JBossWebMetaData;
 import org.jboss.metadata.web.spec.ServletMetaData;
 import org.jboss.ws.api.util.BundleUtils;
@@ -230,12 +231,12 @@ public final class ASHelper
     */
    public static ServletMetaData getServletForName(final JBossWebMetaData jbossWebMD, final String servletName)
    {
-      for (JBossServletMetaData servlet : jbossWebMD.getServlets())
+      final JBossServletsMetaData servlets = jbossWebMD.getServlets();
+      final JBossServletMetaData servlet = servlets != null && servletName != null ? servlets.get(servletName) : null;
+
+      if (servlet != null)
       {
-         if (servlet.getName().equals(servletName))
-         {
-            return servlet;
-         }
+         return servlet;
       }
 
       throw new IllegalStateException(BundleUtils.getMessage(bundle, "CANNOT_FIND_SERVLET_FOR_LINK",  servletName));
@@ -356,28 +357,78 @@ public final class ASHelper
    {
       final JBossWebMetaData jbossWebMD = ASHelper.getRequiredAttachment(unit, JBossWebMetaData.class);
       final ClassLoader loader = unit.getClassLoader();
-      final List<ServletMetaData> endpoints = new ArrayList<ServletMetaData>();
+      WebServiceServlets servlets = ASHelper.getOptionalAttachment(unit, WebServiceServlets.class);
 
-      for (ServletMetaData servletMD : jbossWebMD.getServlets())
+      if (servlets == null || !servlets.isFor(jbossWebMD, loader))
       {
-         final Class<?> endpointClass = ASHelper.getEndpointClass(servletMD, loader);
+         // load and inspect every servlet class only once per deployment unit
+         servlets = new WebServiceServlets(jbossWebMD, loader);
+         unit.addAttachment(WebServiceServlets.class, servlets);
+      }
+
+      return new ArrayList<ServletMetaData>(jaxws ? servlets.jaxwsServlets : servlets.jaxrpcServlets);
+   }
+
+   /**
+    * JAXWS and JAXRPC servlets detected in jboss web meta data.
+    */
+   private static final class WebServiceServlets
+   {
+      /** Inspected jboss web meta data. */
+      private final JBossWebMetaData jbossWebMD;
 
-         if (endpointClass != null)
+      /** Class loader servlet classes were loaded from. */
+      private final ClassLoader loader;
+
+      /** JAXWS servlets. */
+      private final List<ServletMetaData> jaxwsServlets = new ArrayList<ServletMetaData>();
+
+      /** JAXRPC servlets. */
+      private final List<ServletMetaData> jaxrpcServlets = new ArrayList<ServletMetaData>();
+
+      /**
+       * Constructor.
+       *
+       * @param jbossWebMD jboss web meta data
+       * @param loader class loader
+       */
+      private WebServiceServlets(final JBossWebMetaData jbossWebMD, final ClassLoader loader)
+      {
+         this.jbossWebMD = jbossWebMD;
+         this.loader = loader;
+
+         for (ServletMetaData servletMD : jbossWebMD.getServlets())
          {
-            // check webservice annotations
-            final boolean isWebService = endpointClass.isAnnotationPresent(WebService.class);
-            final boolean isWebServiceProvider = endpointClass.isAnnotationPresent(WebServiceProvider.class);
-            // detect webservice type
-            final boolean isJaxwsEndpoint = jaxws && (isWebService || isWebServiceProvider);
-            final boolean isJaxrpcEndpoint = !jaxws && (!isWebService && !isWebServiceProvider);
-
-            if (isJaxwsEndpoint || isJaxrpcEndpoint)
+            final Class<?> endpointClass = ASHelper.getEndpointClass(servletMD, loader);
+
+            if (endpointClass != null)
             {
-               endpoints.add(servletMD);
+               // check webservice annotations
+               final boolean isWebService = endpointClass.isAnnotationPresent(WebService.class);
+               final boolean isWebServiceProvider = endpointClass.isAnnotationPresent(WebServiceProvider.class);
+               // detect webservice type
+               if (isWebService || isWebServiceProvider)
+               {
+                  this.jaxwsServlets.add(servletMD);
+               }
+               else
+               {
+                  this.jaxrpcServlets.add(servletMD);
+               }
             }
          }
       }
 
-      return endpoints;
+      /**
+       * Returns true if this detection result was computed for passed meta data and class loader.
+       *
+       * @param jbossWebMD jboss web meta data
+       * @param loader class loader
+       * @return true if result can be reused, false otherwise
+       */
+      private boolean isFor(final JBossWebMetaData jbossWebMD, final ClassLoader loader)
+      {
+         return this.jbossWebMD == jbossWebMD && this.loader == loader;
+      }
    }
 }
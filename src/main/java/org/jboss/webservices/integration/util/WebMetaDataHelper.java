@@ -21,6 +21,7 @@
  */
 package org.jboss.webservices.integration.util;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -97,11 +98,11 @@ public final class WebMetaDataHelper
     */
    public static List<String> getUrlPatterns(final String urlPattern)
    {
-      final List<String> linkedList = new LinkedList<String>();
+      final List<String> urlPatterns = new ArrayList<String>(1);
 
-      linkedList.add(urlPattern);
+      urlPatterns.add(urlPattern);
 
-      return linkedList;
+      return urlPatterns;
    }
 
    /**